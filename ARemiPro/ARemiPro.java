@@ -1,4 +1,5 @@
 import java.awt.BorderLayout;
+import java.awt.Dimension;
 import java.awt.GridLayout;
 import java.awt.event.*;
 import javax.swing.*;
@@ -6,11 +7,23 @@ import javax.swing.table.DefaultTableModel;
 import java.util.*;
 import java.io.*;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.LocalTime;
 import java.util.Comparator;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
 import com.google.gson.reflect.TypeToken;
 
 /**
@@ -22,6 +35,12 @@ import com.google.gson.reflect.TypeToken;
  *
  * The login screen provides options to log in or create a new account.
  * Accounts are stored in "accounts.json".
+ * Each account has its own device workspace stored in "workspaces/u_<hex username>/devices.json".
+ * Workspaces are loaded lazily on login and recently used ones stay cached in memory.
+ * While logged in, the workspace file is watched so changes made by other tools are
+ * merged into the device table; devices changed on both sides are reported as conflicts.
+ * A Fleet Summary panel beside the table shows device counts by status and AppID
+ * along with recently changed devices.
  *
  * The main window now contains a menu bar at the top with the left-side menus:
  *   File, View, Tools, and Settings.
@@ -36,15 +55,40 @@ public class ARemiPro {
     // File path for the accounts JSON file.
     private static final String ACCOUNTS_FILE = "accounts.json";
 
+    // Directory holding one device workspace per account.
+    private static final String WORKSPACES_DIR = "workspaces";
+
+    // File name of the devices JSON file inside each workspace directory.
+    private static final String DEVICES_FILE = "devices.json";
+
+    // Maximum number of account workspaces kept in memory at once.
+    private static final int MAX_CACHED_WORKSPACES = 4;
+
+    // Delay after a file change event before reloading, so a burst of writes is read once.
+    private static final long WATCH_SETTLE_MILLIS = 200;
+
+    // Number of recently changed devices listed in the Fleet Summary panel.
+    private static final int MAX_RECENT_CHANGES = 10;
+
     // Map of accounts: username -> password.
     public static Map<String, String> accounts = new HashMap<>();
 
+    // Recently used device workspaces: username -> workspace.
+    static final WorkspaceCache workspaces = new WorkspaceCache(MAX_CACHED_WORKSPACES);
+
     // Load accounts when the class loads.
     static {
         loadAccounts();
     }
 
     public static void main(String[] args) {
+        // Flush cached workspaces with unsaved changes (such as sort order) on exit.
+        // The open account is flushed on the EDT by its frame before exiting.
+        Runtime.getRuntime().addShutdownHook(new Thread(new Runnable(){
+            public void run() {
+                workspaces.flushClosed();
+            }
+        }));
         SwingUtilities.invokeLater(new Runnable(){
             public void run() {
                 new LoginFrame().setVisible(true);
@@ -127,9 +171,21 @@ public class ARemiPro {
                     String username = userField.getText().trim();
                     String password = new String(passField.getPassword());
                     if (accounts.containsKey(username) && accounts.get(username).equals(password)) {
+                        final DeviceWorkspace workspace;
+                        try {
+                            workspace = loadWorkspace(username);
+                        } catch (IOException ex) {
+                            JOptionPane.showMessageDialog(LoginFrame.this,
+                              "Could not load devices for " + username + ": " + ex.getMessage(),
+                              "File Error", JOptionPane.ERROR_MESSAGE);
+                            return;
+                        }
+                        if (workspace == null) {
+                            return;
+                        }
                         SwingUtilities.invokeLater(new Runnable(){
                             public void run() {
-                                new ARemiProFrame(username).setVisible(true);
+                                new ARemiProFrame(username, workspace).setVisible(true);
                             }
                         });
                         dispose();
@@ -189,6 +245,24 @@ public class ARemiPro {
         }
     }
 
+    // Loads the workspace for username. If its devices file is unreadable, offers to set the
+    // file aside and start empty; returns null if the user declines.
+    private static DeviceWorkspace loadWorkspace(String username) throws IOException {
+        try {
+            return workspaces.get(username);
+        } catch (UnreadableDevicesFileException ex) {
+            int confirm = JOptionPane.showConfirmDialog(null,
+                    ex.getMessage() + ".\n\nMove it aside to " + DeviceWorkspace.unreadableCopyOf(ex.getFile()).getName()
+                    + " and start with an empty device list?",
+                    "File Error", JOptionPane.YES_NO_OPTION, JOptionPane.ERROR_MESSAGE);
+            if (confirm != JOptionPane.YES_OPTION) {
+                return null;
+            }
+            DeviceWorkspace.setAside(ex.getFile());
+            return workspaces.get(username);
+        }
+    }
+
     /**
      * The ARemiProFrame is the main application window.
      * It displays a table of devices (with non‑sensitive data) and allows creation/editing.
@@ -210,24 +284,75 @@ public class ARemiPro {
      *
      * The Settings menu contains previously added items.
      * After the left‑side menus, horizontal glue pushes an Exit item to the far right.
+     *
+     * To the right of the device table, the Fleet Summary panel shows the workspace's
+     * running device counts, which are updated as devices change rather than recounted.
      */
     static class ARemiProFrame extends JFrame {
         private DefaultTableModel tableModel;
         private JTable deviceTable;
-        // List holding full device information.
-        private List<Device> devices = new ArrayList<>();
-        private int deviceCounter = 0;
+        private FleetSummaryPanel summaryPanel;
+        // Device workspace of the logged-in account.
+        private DeviceWorkspace workspace;
+        // List holding full device information (owned by the workspace).
+        private List<Device> devices;
         private String username;
         private Gson gson;
+        // Watches the workspace file for changes made by other tools.
+        private DevicesFileWatcher fileWatcher;
+        // Guards against re-entrant syncs while a conflict dialog is open.
+        private boolean syncInProgress = false;
+        private boolean syncPending = false;
+        // Resolves conflicts found while merging by asking the user.
+        private final ConflictResolver conflictDialog = new ConflictResolver(){
+            public boolean keepLocal(DeviceChange change) {
+                return keepLocalVersion(change);
+            }
+            public boolean acceptRemoveAll(int deviceCount) {
+                int choice = JOptionPane.showConfirmDialog(ARemiProFrame.this,
+                        "Another program removed all " + deviceCount + " devices from "
+                        + workspace.getFile().getPath() + ".\n\nRemove them here as well?\n"
+                        + "Choose No to keep them and write them back to the file.",
+                        "Devices Removed", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+                return choice == JOptionPane.YES_OPTION;
+            }
+        };
 
-        public ARemiProFrame(String username) {
-            super("ARemi Pro");
+        public ARemiProFrame(String username, DeviceWorkspace workspace) {
+            super("ARemi Pro - " + username);
             this.username = username;
+            this.workspace = workspace;
+            devices = workspace.getDevices();
             gson = new GsonBuilder().setPrettyPrinting().create();
-            setSize(800, 500);
-            setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+            setSize(1050, 500);
+            // Closing the window goes through exitApplication so the workspace is flushed first.
+            setDefaultCloseOperation(JFrame.DO_NOTHING_ON_CLOSE);
+            addWindowListener(new WindowAdapter(){
+                public void windowClosing(WindowEvent e) {
+                    exitApplication();
+                }
+            });
             setLocationRelativeTo(null);
+            workspace.setOpen(true);
             initializeUI();
+            refreshTable();
+            summaryPanel.showAll(workspace.getStats());
+            workspace.getStats().setListener(summaryPanel);
+            // Pick up anything written to the file since the workspace was cached.
+            reloadFromFile();
+            startFileWatcher();
+        }
+
+        @Override
+        public void dispose() {
+            // The workspace stays cached after logout; stop it updating this panel.
+            workspace.getStats().setListener(null);
+            workspace.setOpen(false);
+            if (fileWatcher != null) {
+                fileWatcher.stop();
+                fileWatcher = null;
+            }
+            super.dispose();
         }
 
         private void initializeUI() {
@@ -270,6 +395,7 @@ public class ARemiPro {
             sortByNameItem.addActionListener(new ActionListener(){
                 public void actionPerformed(ActionEvent e) {
                     Collections.sort(devices, Comparator.comparing(Device::getName));
+                    workspace.markDirty();
                     refreshTable();
                 }
             });
@@ -277,6 +403,7 @@ public class ARemiPro {
             sortByAppIDItem.addActionListener(new ActionListener(){
                 public void actionPerformed(ActionEvent e) {
                     Collections.sort(devices, Comparator.comparing(Device::getAppId));
+                    workspace.markDirty();
                     refreshTable();
                 }
             });
@@ -346,7 +473,7 @@ public class ARemiPro {
             JMenuItem exitItem = new JMenuItem("Exit");
             exitItem.addActionListener(new ActionListener(){
                 public void actionPerformed(ActionEvent e) {
-                    System.exit(0);
+                    exitApplication();
                 }
             });
             menuBar.add(exitItem);
@@ -498,6 +625,9 @@ public class ARemiPro {
             JScrollPane scrollPane = new JScrollPane(deviceTable);
             panel.add(scrollPane, BorderLayout.CENTER);
 
+            summaryPanel = new FleetSummaryPanel();
+            panel.add(summaryPanel, BorderLayout.EAST);
+
             JPanel controlPanel = new JPanel();
             JButton createDeviceButton = new JButton("Create New Device");
             JButton editDeviceButton = new JButton("Edit Device");
@@ -523,13 +653,7 @@ public class ARemiPro {
                         return;
                     }
                     int deviceId = (int) tableModel.getValueAt(selectedRow, 0);
-                    Device selectedDevice = null;
-                    for (Device dev : devices) {
-                        if (dev.getId() == deviceId) {
-                            selectedDevice = dev;
-                            break;
-                        }
-                    }
+                    Device selectedDevice = workspace.findDevice(deviceId);
                     if (selectedDevice == null) {
                         JOptionPane.showMessageDialog(ARemiProFrame.this,
                             "Selected device not found.", "Error", JOptionPane.ERROR_MESSAGE);
@@ -546,6 +670,7 @@ public class ARemiPro {
                         return;
                     }
 
+                    Device original = selectedDevice.copy();
                     JTextField nameField = new JTextField(selectedDevice.getName());
                     JTextField appIdField = new JTextField(selectedDevice.getAppId());
                     JPanel editPanel = new JPanel(new GridLayout(2, 2, 10, 10));
@@ -556,19 +681,53 @@ public class ARemiPro {
 
                     int editResult = JOptionPane.showConfirmDialog(ARemiProFrame.this,
                         editPanel, "Edit Device", JOptionPane.OK_CANCEL_OPTION);
-                    if (editResult == JOptionPane.OK_OPTION) {
-                        selectedDevice.setName(nameField.getText().trim());
-                        selectedDevice.setAppId(appIdField.getText().trim());
-                        tableModel.setValueAt(selectedDevice.getName(), selectedRow, 1);
-                        tableModel.setValueAt(selectedDevice.getAppId(), selectedRow, 2);
-                        saveDevicesToFile();
+                    if (editResult != JOptionPane.OK_OPTION) {
+                        return;
+                    }
+
+                    // External changes may have been merged while the dialogs were open,
+                    // so look the device up again and treat any change as a conflict.
+                    Device current = workspace.findDevice(deviceId);
+                    Device edited = (current != null ? current : original).copy();
+                    edited.setName(nameField.getText().trim());
+                    edited.setAppId(appIdField.getText().trim());
+                    if (!Device.sameFields(current, original)
+                            && !keepLocalVersion(new DeviceChange(deviceId, edited, current, true))) {
                         JOptionPane.showMessageDialog(ARemiProFrame.this,
-                            "Device updated successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
+                            "Edit discarded.", "Edit Device", JOptionPane.INFORMATION_MESSAGE);
+                        return;
                     }
+                    if (current == null) {
+                        workspace.addDevice(edited, "Edited");
+                        current = edited;
+                    } else {
+                        workspace.updateDevice(deviceId, edited.getName(), edited.getAppId());
+                    }
+                    updateTableRow(deviceId, current);
+                    saveDevicesToFile();
+                    JOptionPane.showMessageDialog(ARemiProFrame.this,
+                        "Device updated successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
                 }
             });
         }
 
+        // Helper method: Saves unsaved changes (such as sort order) on the EDT, then exits.
+        private void exitApplication() {
+            if (workspace.isDirty()) {
+                saveDevicesToFile();
+            }
+            if (workspace.isDirty()) {
+                int confirm = JOptionPane.showConfirmDialog(this,
+                        "Devices could not be saved. Exit anyway and lose unsaved changes?",
+                        "Exit", JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
+                if (confirm != JOptionPane.YES_OPTION) {
+                    return;
+                }
+            }
+            dispose();
+            System.exit(0);
+        }
+
         // Helper method: Opens a dialog to create a new device.
         private void createNewDevice() {
             JTextField nameField = new JTextField();
@@ -594,8 +753,8 @@ public class ARemiPro {
                 String savedCPN = savedCPNField.getText().trim();
                 String securityKey = securityKeyField.getText().trim();
                 if(savedCPN.length() == 8) {
-                    Device newDevice = new Device(++deviceCounter, name, appId, savedCPN, securityKey, "Active");
-                    devices.add(newDevice);
+                    Device newDevice = new Device(workspace.nextDeviceId(), name, appId, savedCPN, securityKey, "Active");
+                    workspace.addDevice(newDevice, "Created");
                     tableModel.addRow(new Object[]{newDevice.getId(), newDevice.getName(), newDevice.getAppId(), newDevice.getStatus()});
                     saveDevicesToFile();
                     JOptionPane.showMessageDialog(this, "Device created successfully!", "Success", JOptionPane.INFORMATION_MESSAGE);
@@ -618,9 +777,9 @@ public class ARemiPro {
                     if(importedDevices != null) {
                         for (Device dev : importedDevices) {
                             // Assign new unique ID.
-                            Device newDevice = new Device(++deviceCounter,
+                            Device newDevice = new Device(workspace.nextDeviceId(),
                                     dev.getName(), dev.getAppId(), dev.getSavedCPN(), dev.getSecurityKey(), dev.getStatus());
-                            devices.add(newDevice);
+                            workspace.addDevice(newDevice, "Imported");
                             tableModel.addRow(new Object[]{newDevice.getId(), newDevice.getName(), newDevice.getAppId(), newDevice.getStatus()});
                         }
                         saveDevicesToFile();
@@ -655,16 +814,933 @@ public class ARemiPro {
             }
         }
 
-        // Saves the complete list of devices to "devices.json".
+        // Starts watching the workspace file; external changes are merged on the EDT.
+        private void startFileWatcher() {
+            fileWatcher = new DevicesFileWatcher(workspace.getFile().toPath(), new Runnable(){
+                public void run() {
+                    // The event may have been queued before this frame was logged out.
+                    if (!isDisplayable() || fileWatcher == null) {
+                        return;
+                    }
+                    reloadFromFile();
+                }
+            });
+            try {
+                fileWatcher.start();
+            } catch (IOException ex) {
+                fileWatcher = null;
+                ex.printStackTrace();
+            }
+        }
+
+        // Merges external changes into the devices, then rewrites the file
+        // if local changes (including kept local versions) are still unsaved.
+        private void reloadFromFile() {
+            if (syncWithFile() && workspace.isDirty()) {
+                saveDevicesToFile();
+            }
+        }
+
+        /**
+         * Merges external changes to the workspace file into the in-memory devices.
+         * Only devices that changed are applied to the table. A device changed both
+         * externally and locally is a conflict, and the user picks which version to keep.
+         * Returns false if the merge was skipped because the file could not be read.
+         */
+        private boolean syncWithFile() {
+            if (syncInProgress) {
+                syncPending = true;
+                return false;
+            }
+            syncInProgress = true;
+            try {
+                do {
+                    syncPending = false;
+                    try {
+                        showAppliedChanges(workspace.mergeFromFile(conflictDialog));
+                    } catch (IOException ex) {
+                        // The file is unreadable or mid-write; the next change event retries.
+                        return false;
+                    }
+                } while (syncPending);
+            } finally {
+                syncInProgress = false;
+            }
+            return true;
+        }
+
+        // Updates the table rows of devices changed by a merge in a single pass over the table.
+        // Removals shift rows, so any removal rebuilds the table from the devices instead.
+        private void showAppliedChanges(List<DeviceChange> changes) {
+            Map<Integer, Device> changedById = new LinkedHashMap<>();
+            for (DeviceChange change : changes) {
+                if (change.getExternal() == null) {
+                    refreshTable();
+                    return;
+                }
+                changedById.put(change.getId(), change.getExternal());
+            }
+            if (changedById.isEmpty()) {
+                return;
+            }
+            for (int row = 0; row < tableModel.getRowCount(); row++) {
+                Device device = changedById.remove((int) tableModel.getValueAt(row, 0));
+                if (device != null) {
+                    tableModel.setValueAt(device.getName(), row, 1);
+                    tableModel.setValueAt(device.getAppId(), row, 2);
+                    tableModel.setValueAt(device.getStatus(), row, 3);
+                }
+            }
+            // Whatever is left was added by the merge.
+            for (Device device : changedById.values()) {
+                tableModel.addRow(new Object[]{device.getId(), device.getName(), device.getAppId(), device.getStatus()});
+            }
+        }
+
+        // Asks the user whether to keep the local or the external version of a conflicting device.
+        private boolean keepLocalVersion(DeviceChange change) {
+            String message = "Device " + change.getId() + " was changed by another program"
+                    + " and also has unsaved local changes.\n\n"
+                    + "Local:    " + describeDevice(change.getLocal()) + "\n"
+                    + "External: " + describeDevice(change.getExternal()) + "\n\n"
+                    + "Which version do you want to keep?";
+            Object[] options = {"Keep Local", "Use External"};
+            int choice = JOptionPane.showOptionDialog(this, message, "Device Conflict",
+                    JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE, null, options, options[0]);
+            return choice != 1;
+        }
+
+        private String describeDevice(Device device) {
+            if (device == null) {
+                return "(deleted)";
+            }
+            return device.getName() + " [" + device.getAppId() + "] " + device.getStatus();
+        }
+
+        // Updates, adds or removes the table row for a device; a null device removes the row.
+        private void updateTableRow(int deviceId, Device device) {
+            int row = -1;
+            for (int i = 0; i < tableModel.getRowCount(); i++) {
+                if ((int) tableModel.getValueAt(i, 0) == deviceId) {
+                    row = i;
+                    break;
+                }
+            }
+            if (device == null) {
+                if (row >= 0) {
+                    tableModel.removeRow(row);
+                }
+            } else if (row < 0) {
+                tableModel.addRow(new Object[]{device.getId(), device.getName(), device.getAppId(), device.getStatus()});
+            } else {
+                tableModel.setValueAt(device.getName(), row, 1);
+                tableModel.setValueAt(device.getAppId(), row, 2);
+                tableModel.setValueAt(device.getStatus(), row, 3);
+            }
+        }
+
+        // Saves the complete list of devices to the account's "devices.json",
+        // first merging any external changes so they are not overwritten.
         private void saveDevicesToFile() {
-            String json = gson.toJson(devices);
-            try (FileWriter writer = new FileWriter("devices.json")) {
-                writer.write(json);
+            if (syncInProgress) {
+                // Already merging; the changes stay dirty and are written by the next save.
+                workspace.markDirty();
+                syncPending = true;
+                return;
+            }
+            // Watcher events arriving during a conflict dialog are merged afterwards.
+            syncInProgress = true;
+            try {
+                showAppliedChanges(workspace.save(conflictDialog));
+            } catch (UnreadableDevicesFileException ex) {
+                int confirm = JOptionPane.showConfirmDialog(this,
+                    ex.getMessage() + ".\n\nOverwrite it with the devices shown here? The unreadable file"
+                    + " is kept as " + DeviceWorkspace.unreadableCopyOf(ex.getFile()).getName() + ".",
+                    "File Error", JOptionPane.YES_NO_OPTION, JOptionPane.ERROR_MESSAGE);
+                if (confirm == JOptionPane.YES_OPTION) {
+                    try {
+                        workspace.overwriteUnreadableFile();
+                    } catch (IOException writeEx) {
+                        JOptionPane.showMessageDialog(this,
+                            "Error writing to " + workspace.getFile().getPath() + ": " + writeEx.getMessage(),
+                            "File Error", JOptionPane.ERROR_MESSAGE);
+                        writeEx.printStackTrace();
+                    }
+                }
             } catch (IOException ex) {
                 JOptionPane.showMessageDialog(this,
-                    "Error writing to devices.json: " + ex.getMessage(),
+                    "Error writing to " + workspace.getFile().getPath() + ": " + ex.getMessage(),
                     "File Error", JOptionPane.ERROR_MESSAGE);
                 ex.printStackTrace();
+            } finally {
+                syncInProgress = false;
+            }
+            if (syncPending) {
+                syncWithFile();
+            }
+        }
+    }
+
+    /**
+     * A ConflictResolver decides, for a device changed both in the workspace file
+     * and in memory, whether the local version is kept. It also confirms a file
+     * that removes every device, which is applied only if acceptRemoveAll returns true.
+     */
+    interface ConflictResolver {
+        boolean keepLocal(DeviceChange change);
+        boolean acceptRemoveAll(int deviceCount);
+    }
+
+    /**
+     * Thrown when a devices file exists but is blank or is not valid JSON,
+     * for example because another program is still writing it.
+     */
+    static class UnreadableDevicesFileException extends IOException {
+        private final File file;
+
+        public UnreadableDevicesFileException(File file, String reason, Throwable cause) {
+            super(file.getPath() + " " + reason, cause);
+            this.file = file;
+        }
+
+        public File getFile() {
+            return file;
+        }
+    }
+
+    /**
+     * The DeviceWorkspace holds the devices belonging to a single account.
+     * It is backed by "workspaces/u_<hex username>/devices.json" and is loaded on first use.
+     */
+    static class DeviceWorkspace {
+        private final String username;
+        private final File file;
+        private final List<Device> devices;
+        // The same devices keyed by ID, so lookups during merges do not scan the list.
+        private final Map<Integer, Device> devicesById = new HashMap<>();
+        // Copies of the devices as last read from or written to the file, keyed by ID.
+        private Map<Integer, Device> syncedDevices = new HashMap<>();
+        // Running aggregates over devices, kept current by every mutation below.
+        private final FleetStats stats;
+        private int deviceCounter = 0;
+        // True when the in-memory devices have changes not yet written to the file.
+        private boolean dirty = false;
+        // True while a frame shows this workspace; only that frame may touch it then.
+        private volatile boolean open = false;
+
+        private DeviceWorkspace(String username, File file, List<Device> devices) {
+            this.username = username;
+            this.file = file;
+            this.devices = devices;
+            this.stats = new FleetStats(devices);
+            markSynced(devices);
+            // Continue numbering after the highest ID already in use.
+            for (Device dev : devices) {
+                devicesById.put(dev.getId(), dev);
+                deviceCounter = Math.max(deviceCounter, dev.getId());
+            }
+        }
+
+        // Loads the workspace for username, starting empty if it has no devices file yet.
+        // A blank or malformed devices file throws UnreadableDevicesFileException rather than
+        // opening an empty workspace.
+        public static DeviceWorkspace load(String username) throws IOException {
+            File file = new File(new File(WORKSPACES_DIR, toDirectoryName(username)), DEVICES_FILE);
+            List<Device> devices = new ArrayList<>();
+            if (file.exists()) {
+                devices.addAll(parseDevicesFile(file));
+            }
+            return new DeviceWorkspace(username, file, devices);
+        }
+
+        // Parses a devices file; blank and malformed files are both unreadable.
+        private static List<Device> parseDevicesFile(File file) throws IOException {
+            List<Device> fileDevices;
+            try (FileReader reader = new FileReader(file)) {
+                Type deviceListType = new TypeToken<List<Device>>() {}.getType();
+                fileDevices = new Gson().fromJson(reader, deviceListType);
+            } catch (JsonParseException ex) {
+                throw new UnreadableDevicesFileException(file, "is not a valid devices file", ex);
+            }
+            if (fileDevices == null) {
+                throw new UnreadableDevicesFileException(file, "is empty or still being written", null);
+            }
+            return fileDevices;
+        }
+
+        // Returns where setAside moves an unreadable devices file.
+        public static File unreadableCopyOf(File file) {
+            return new File(file.getParentFile(), file.getName() + ".unreadable");
+        }
+
+        // Moves an unreadable devices file out of the way, replacing any earlier copy.
+        public static void setAside(File file) throws IOException {
+            Files.move(file.toPath(), unreadableCopyOf(file).toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        // Maps a username to a directory name unique to it: "u_" followed by its UTF-8 bytes in hex.
+        private static String toDirectoryName(String username) {
+            StringBuilder name = new StringBuilder("u_");
+            for (byte b : username.getBytes(StandardCharsets.UTF_8)) {
+                name.append(String.format("%02x", b));
+            }
+            return name.toString();
+        }
+
+        public String getUsername() {
+            return username;
+        }
+        public File getFile() {
+            return file;
+        }
+        public List<Device> getDevices() {
+            return devices;
+        }
+        public FleetStats getStats() {
+            return stats;
+        }
+
+        // Returns the in-memory device with the given ID, or null if there is none.
+        public Device findDevice(int id) {
+            return devicesById.get(id);
+        }
+
+        public boolean isDirty() {
+            return dirty;
+        }
+
+        // Flags in-memory changes that are not saved yet, such as a new sort order.
+        public void markDirty() {
+            dirty = true;
+        }
+
+        public boolean isOpen() {
+            return open;
+        }
+        public void setOpen(boolean open) {
+            this.open = open;
+        }
+
+        // Adds a device and records it in the fleet aggregates.
+        public void addDevice(Device device, String reason) {
+            devices.add(device);
+            devicesById.put(device.getId(), device);
+            stats.deviceAdded(device, reason);
+            dirty = true;
+        }
+
+        // Changes a device's name and AppID and adjusts the fleet aggregates to match.
+        // Returns the updated device, or null if there is no device with that ID.
+        public Device updateDevice(int id, String name, String appId) {
+            Device device = findDevice(id);
+            if (device == null) {
+                return null;
+            }
+            Device before = device.copy();
+            device.setName(name);
+            device.setAppId(appId);
+            stats.deviceChanged(before, device, "Edited");
+            dirty = true;
+            return device;
+        }
+
+        // Returns the next unused device ID.
+        public int nextDeviceId() {
+            return ++deviceCounter;
+        }
+
+        /**
+         * Merges external changes (see mergeFromFile), then writes the complete list of devices
+         * to the workspace file. Returns the merged changes. A file that exists but cannot be
+         * read is not overwritten; the IOException is thrown and the workspace stays dirty.
+         */
+        public List<DeviceChange> save(ConflictResolver resolver) throws IOException {
+            dirty = true;
+            List<DeviceChange> applied = mergeFromFile(resolver);
+            writeFile();
+            return applied;
+        }
+
+        // Sets an unreadable workspace file aside and writes the in-memory devices in its place.
+        public void overwriteUnreadableFile() throws IOException {
+            dirty = true;
+            setAside(file);
+            writeFile();
+        }
+
+        // Writes the complete list of devices to the workspace file. The devices go to a
+        // temporary file that is then moved over the real one, so neither a crash nor another
+        // program reading mid-save ever sees a partial file. The workspace stays dirty on failure.
+        private void writeFile() throws IOException {
+            dirty = true;
+            Path dir = file.toPath().toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            Path temp = Files.createTempFile(dir, DEVICES_FILE, ".tmp");
+            try {
+                try (Writer writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                    Gson gson = new GsonBuilder().setPrettyPrinting().create();
+                    gson.toJson(devices, writer);
+                }
+                try {
+                    Files.move(temp, file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException ex) {
+                    Files.move(temp, file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            markSynced(devices);
+            dirty = false;
+        }
+
+        // Reads the devices currently in the workspace file, or null if there is no file.
+        // A blank or malformed file throws UnreadableDevicesFileException, as in load.
+        public List<Device> readFile() throws IOException {
+            if (!file.exists()) {
+                return null;
+            }
+            return parseDevicesFile(file);
+        }
+
+        /**
+         * Merges changes made to the workspace file by other programs into the in-memory devices.
+         * Conflicting devices are passed to resolver; keeping a local version leaves the workspace
+         * dirty so the next save writes it. A file that removes every device is applied only if
+         * resolver.acceptRemoveAll agrees. A device added locally under an ID that another program
+         * also used for a new device is given a fresh ID, so both devices are kept.
+         * Returns the changes applied to memory; renumbering shows up as a removal and an addition.
+         */
+        public List<DeviceChange> mergeFromFile(ConflictResolver resolver) throws IOException {
+            List<DeviceChange> applied = new ArrayList<>();
+            List<Device> fileDevices = readFile();
+            if (fileDevices == null) {
+                return applied;
+            }
+            if (fileDevices.isEmpty() && !syncedDevices.isEmpty() && !resolver.acceptRemoveAll(syncedDevices.size())) {
+                // Keep every device; the next save writes them back.
+                markSynced(fileDevices);
+                dirty = true;
+                return applied;
+            }
+
+            // New IDs for renumbered local devices must not clash with any ID in the file.
+            for (Device dev : fileDevices) {
+                deviceCounter = Math.max(deviceCounter, dev.getId());
+            }
+            Set<Integer> removedIds = new HashSet<>();
+            for (DeviceChange change : diff(fileDevices)) {
+                if (change.isIdCollision()) {
+                    Device local = change.getLocal();
+                    devicesById.remove(local.getId());
+                    local.setId(nextDeviceId());
+                    devicesById.put(local.getId(), local);
+                    applied.add(new DeviceChange(change.getId(), null, null, false));
+                    applied.add(new DeviceChange(local.getId(), null, local, false));
+                    dirty = true;
+                } else if (change.isConflict() && resolver.keepLocal(change)) {
+                    dirty = true;
+                    continue;
+                }
+                applyExternal(change, removedIds);
+                applied.add(change);
+            }
+            if (!removedIds.isEmpty()) {
+                devices.removeIf(dev -> removedIds.contains(dev.getId()));
+            }
+            markSynced(fileDevices);
+            return applied;
+        }
+
+        // Records the given devices as the state last seen in the workspace file.
+        public void markSynced(List<Device> fileDevices) {
+            Map<Integer, Device> synced = new HashMap<>();
+            for (Device dev : fileDevices) {
+                synced.put(dev.getId(), dev.copy());
+            }
+            syncedDevices = synced;
+        }
+
+        /**
+         * Compares the devices in the file against the last synced state and the in-memory devices.
+         * Only devices changed in the file are returned; those that were also changed locally
+         * to something different are flagged as conflicts.
+         */
+        public List<DeviceChange> diff(List<Device> fileDevices) {
+            Map<Integer, Device> externalById = new LinkedHashMap<>();
+            for (Device dev : fileDevices) {
+                externalById.put(dev.getId(), dev);
+            }
+            Set<Integer> ids = new LinkedHashSet<>(externalById.keySet());
+            ids.addAll(syncedDevices.keySet());
+
+            List<DeviceChange> changes = new ArrayList<>();
+            for (int id : ids) {
+                Device synced = syncedDevices.get(id);
+                Device local = devicesById.get(id);
+                Device external = externalById.get(id);
+                if (Device.sameFields(external, synced) || Device.sameFields(external, local)) {
+                    continue;
+                }
+                if (synced == null && local != null && external != null) {
+                    // Both sides created a different device under the same new ID.
+                    changes.add(new DeviceChange(id, local, external, false, true));
+                    continue;
+                }
+                boolean conflict = !Device.sameFields(local, synced);
+                changes.add(new DeviceChange(id, local, external, conflict));
+            }
+            return changes;
+        }
+
+        // Applies the external side of a change to the in-memory devices.
+        // Existing devices are updated in place so references held elsewhere stay valid.
+        // Removed devices leave the index at once; their IDs are collected in removedIds
+        // so the caller can drop them from the list in one pass.
+        private void applyExternal(DeviceChange change, Set<Integer> removedIds) {
+            Device external = change.getExternal();
+            Device dev = devicesById.get(change.getId());
+            if (dev != null) {
+                if (external == null) {
+                    devicesById.remove(dev.getId());
+                    removedIds.add(dev.getId());
+                    stats.deviceRemoved(dev, "Removed externally");
+                } else {
+                    Device before = dev.copy();
+                    dev.assign(external);
+                    stats.deviceChanged(before, dev, "Changed externally");
+                }
+            } else if (external != null) {
+                addDevice(external.copy(), "Added externally");
+                deviceCounter = Math.max(deviceCounter, external.getId());
+            }
+        }
+    }
+
+    /**
+     * The FleetStats class keeps running device counts by status and by AppID,
+     * plus a short list of recently changed devices. Counts are adjusted per device
+     * as it is added, changed or removed, so reading them never scans the fleet.
+     * Counts are never clamped, so a negative count points at a missed update.
+     */
+    static class FleetStats {
+        /**
+         * A FleetStats.Listener is told about each aggregate that changes, so a view
+         * can update only those entries. A count of zero means the key is gone.
+         */
+        interface Listener {
+            void totalChanged(int total);
+            void statusCountChanged(String status, int count);
+            void appIdCountChanged(String appId, int count);
+            void changeRecorded(String change);
+        }
+
+        private int totalDevices = 0;
+        private final Map<String, Integer> statusCounts = new HashMap<>();
+        private final Map<String, Integer> appIdCounts = new HashMap<>();
+        // Most recent change first.
+        private final Deque<String> recentChanges = new ArrayDeque<>();
+        private Listener listener;
+
+        public FleetStats(List<Device> devices) {
+            for (Device dev : devices) {
+                count(dev, 1);
+            }
+        }
+
+        // Sets the listener notified of each change; null removes it.
+        public void setListener(Listener listener) {
+            this.listener = listener;
+        }
+
+        public void deviceAdded(Device device, String reason) {
+            count(device, 1);
+            recordChange(reason, device);
+        }
+
+        public void deviceRemoved(Device device, String reason) {
+            count(device, -1);
+            recordChange(reason, device);
+        }
+
+        // Moves the device between keys only where its status or AppID actually changed,
+        // so the total and unchanged keys are left alone.
+        public void deviceChanged(Device before, Device after, String reason) {
+            if (!labelOf(before.getStatus()).equals(labelOf(after.getStatus()))) {
+                countStatus(before.getStatus(), -1);
+                countStatus(after.getStatus(), 1);
+            }
+            if (!labelOf(before.getAppId()).equals(labelOf(after.getAppId()))) {
+                countAppId(before.getAppId(), -1);
+                countAppId(after.getAppId(), 1);
+            }
+            recordChange(reason, after);
+        }
+
+        public int getTotalDevices() {
+            return totalDevices;
+        }
+        public Map<String, Integer> getStatusCounts() {
+            return Collections.unmodifiableMap(statusCounts);
+        }
+        public Map<String, Integer> getAppIdCounts() {
+            return Collections.unmodifiableMap(appIdCounts);
+        }
+        public Collection<String> getRecentChanges() {
+            return Collections.unmodifiableCollection(recentChanges);
+        }
+
+        private void count(Device device, int delta) {
+            totalDevices += delta;
+            if (listener != null) {
+                listener.totalChanged(totalDevices);
+            }
+            countStatus(device.getStatus(), delta);
+            countAppId(device.getAppId(), delta);
+        }
+
+        private void countStatus(String status, int delta) {
+            String label = labelOf(status);
+            int count = adjust(statusCounts, label, delta);
+            if (listener != null) {
+                listener.statusCountChanged(label, count);
+            }
+        }
+
+        private void countAppId(String appId, int delta) {
+            String label = labelOf(appId);
+            int count = adjust(appIdCounts, label, delta);
+            if (listener != null) {
+                listener.appIdCountChanged(label, count);
+            }
+        }
+
+        // Key under which a status or AppID is counted.
+        private static String labelOf(String key) {
+            return (key == null || key.isEmpty()) ? "(none)" : key;
+        }
+
+        // Adds delta to the label's count, dropping the label when it reaches zero. Returns the new count.
+        private static int adjust(Map<String, Integer> counts, String label, int delta) {
+            int updated = counts.getOrDefault(label, 0) + delta;
+            if (updated == 0) {
+                counts.remove(label);
+            } else {
+                counts.put(label, updated);
+            }
+            return updated;
+        }
+
+        private void recordChange(String reason, Device device) {
+            String change = LocalTime.now().withNano(0) + "  " + reason
+                    + " #" + device.getId() + " " + device.getName();
+            recentChanges.addFirst(change);
+            if (recentChanges.size() > MAX_RECENT_CHANGES) {
+                recentChanges.removeLast();
+            }
+            if (listener != null) {
+                listener.changeRecorded(change);
+            }
+        }
+    }
+
+    /**
+     * The FleetSummaryPanel displays a workspace's FleetStats: the total device count,
+     * counts by status and by AppID, and the recently changed devices. After the initial
+     * showAll, it listens to the stats and updates only the rows whose counts changed.
+     * Click a column header to sort the counts.
+     */
+    static class FleetSummaryPanel extends JPanel implements FleetStats.Listener {
+        private final JLabel totalLabel = new JLabel();
+        private final CountsTableModel statusModel = new CountsTableModel("Status");
+        private final CountsTableModel appIdModel = new CountsTableModel("AppID");
+        private final DefaultListModel<String> recentModel = new DefaultListModel<>();
+
+        public FleetSummaryPanel() {
+            super(new BorderLayout(5, 5));
+            setBorder(BorderFactory.createTitledBorder("Fleet Summary"));
+            setPreferredSize(new Dimension(250, 0));
+
+            JPanel countsPanel = new JPanel(new GridLayout(2, 1, 5, 5));
+            JTable statusTable = new JTable(statusModel);
+            statusTable.setAutoCreateRowSorter(true);
+            countsPanel.add(new JScrollPane(statusTable));
+            JTable appIdTable = new JTable(appIdModel);
+            appIdTable.setAutoCreateRowSorter(true);
+            countsPanel.add(new JScrollPane(appIdTable));
+
+            JPanel recentPanel = new JPanel(new BorderLayout());
+            recentPanel.add(new JLabel("Recently changed:"), BorderLayout.NORTH);
+            JScrollPane recentScrollPane = new JScrollPane(new JList<>(recentModel));
+            recentScrollPane.setPreferredSize(new Dimension(0, 120));
+            recentPanel.add(recentScrollPane, BorderLayout.CENTER);
+
+            add(totalLabel, BorderLayout.NORTH);
+            add(countsPanel, BorderLayout.CENTER);
+            add(recentPanel, BorderLayout.SOUTH);
+        }
+
+        // Fills the panel from scratch; used once when a workspace is shown.
+        public void showAll(FleetStats stats) {
+            totalChanged(stats.getTotalDevices());
+            statusModel.clear();
+            for (Map.Entry<String, Integer> entry : stats.getStatusCounts().entrySet()) {
+                statusModel.setCount(entry.getKey(), entry.getValue());
+            }
+            appIdModel.clear();
+            for (Map.Entry<String, Integer> entry : stats.getAppIdCounts().entrySet()) {
+                appIdModel.setCount(entry.getKey(), entry.getValue());
+            }
+            recentModel.clear();
+            for (String change : stats.getRecentChanges()) {
+                recentModel.addElement(change);
+            }
+        }
+
+        public void totalChanged(int total) {
+            totalLabel.setText("Total devices: " + total);
+        }
+
+        public void statusCountChanged(String status, int count) {
+            statusModel.setCount(status, count);
+        }
+
+        public void appIdCountChanged(String appId, int count) {
+            appIdModel.setCount(appId, count);
+        }
+
+        public void changeRecorded(String change) {
+            recentModel.add(0, change);
+            if (recentModel.size() > MAX_RECENT_CHANGES) {
+                recentModel.remove(recentModel.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * The CountsTableModel is a read-only two-column table of key -> count.
+     * It remembers each key's row, so setting one count touches one row; a removed
+     * row is filled with the last row instead of shifting the rows below it.
+     */
+    static class CountsTableModel extends DefaultTableModel {
+        private final Map<String, Integer> rowByKey = new HashMap<>();
+
+        public CountsTableModel(String keyColumn) {
+            super(new String[]{keyColumn, "Devices"}, 0);
+        }
+
+        @Override
+        public boolean isCellEditable(int row, int column) {
+            return false;
+        }
+
+        public void clear() {
+            rowByKey.clear();
+            setRowCount(0);
+        }
+
+        // Sets the count shown for key; a count of zero removes its row.
+        public void setCount(String key, int count) {
+            Integer row = rowByKey.get(key);
+            if (count == 0) {
+                if (row != null) {
+                    removeKey(key, row);
+                }
+            } else if (row == null) {
+                rowByKey.put(key, getRowCount());
+                addRow(new Object[]{key, count});
+            } else {
+                setValueAt(count, row, 1);
+            }
+        }
+
+        private void removeKey(String key, int row) {
+            rowByKey.remove(key);
+            int lastRow = getRowCount() - 1;
+            if (row != lastRow) {
+                String lastKey = (String) getValueAt(lastRow, 0);
+                setValueAt(lastKey, row, 0);
+                setValueAt(getValueAt(lastRow, 1), row, 1);
+                rowByKey.put(lastKey, row);
+            }
+            removeRow(lastRow);
+        }
+    }
+
+    /**
+     * A DeviceChange describes one device that differs between the workspace file and memory.
+     * A null local or external device means the device does not exist on that side.
+     */
+    static class DeviceChange {
+        private final int id;
+        private final Device local;
+        private final Device external;
+        private final boolean conflict;
+        private final boolean idCollision;
+
+        public DeviceChange(int id, Device local, Device external, boolean conflict) {
+            this(id, local, external, conflict, false);
+        }
+
+        public DeviceChange(int id, Device local, Device external, boolean conflict, boolean idCollision) {
+            this.id = id;
+            this.local = local;
+            this.external = external;
+            this.conflict = conflict;
+            this.idCollision = idCollision;
+        }
+
+        public int getId() {
+            return id;
+        }
+        public Device getLocal() {
+            return local;
+        }
+        public Device getExternal() {
+            return external;
+        }
+        public boolean isConflict() {
+            return conflict;
+        }
+        // True if local and external are different new devices that were given the same ID.
+        public boolean isIdCollision() {
+            return idCollision;
+        }
+    }
+
+    /**
+     * The DevicesFileWatcher notifies a callback, on the Swing event thread, whenever
+     * a devices file is created or modified. It runs on a daemon thread using a WatchService
+     * registered on the file's directory.
+     */
+    static class DevicesFileWatcher implements Runnable {
+        private final Path file;
+        private final Runnable onChange;
+        private WatchService watchService;
+
+        public DevicesFileWatcher(Path file, Runnable onChange) {
+            this.file = file;
+            this.onChange = onChange;
+        }
+
+        public void start() throws IOException {
+            Path dir = file.toAbsolutePath().getParent();
+            Files.createDirectories(dir);
+            watchService = FileSystems.getDefault().newWatchService();
+            dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            Thread thread = new Thread(this, "devices-file-watcher");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        public void stop() {
+            try {
+                watchService.close();
+            } catch (IOException ex) {
+                ex.printStackTrace();
+            }
+        }
+
+        public void run() {
+            try {
+                while (true) {
+                    WatchKey key = watchService.take();
+                    boolean changed = pollFileEvents(key);
+                    if (changed) {
+                        // Let the writer finish, then fold any follow-up events into this reload.
+                        Thread.sleep(WATCH_SETTLE_MILLIS);
+                        WatchKey followUp;
+                        while ((followUp = watchService.poll()) != null) {
+                            pollFileEvents(followUp);
+                        }
+                        SwingUtilities.invokeLater(onChange);
+                    }
+                }
+            } catch (InterruptedException | ClosedWatchServiceException ex) {
+                // Watcher stopped.
+            }
+        }
+
+        // Drains the key's events and resets it; returns true if any event concerned the file.
+        private boolean pollFileEvents(WatchKey key) {
+            boolean matched = false;
+            for (WatchEvent<?> event : key.pollEvents()) {
+                Object context = event.context();
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(context)) {
+                    matched = true;
+                }
+            }
+            key.reset();
+            return matched;
+        }
+    }
+
+    /**
+     * The WorkspaceCache keeps recently used device workspaces in memory.
+     * It is a size-bounded LRU: when more than maxEntries workspaces are cached,
+     * the least recently used one is dropped, and flushed to disk first if it is dirty.
+     * A dirty workspace that fails to flush stays cached so its changes are not lost.
+     */
+    static class WorkspaceCache {
+        // Nobody can be asked during eviction or exit, so local versions win and are reported.
+        private static final ConflictResolver KEEP_LOCAL = new ConflictResolver(){
+            public boolean keepLocal(DeviceChange change) {
+                System.err.println("Keeping local version of device " + change.getId()
+                        + " over external changes in " + DEVICES_FILE);
+                return true;
+            }
+            public boolean acceptRemoveAll(int deviceCount) {
+                System.err.println("Keeping " + deviceCount + " devices that were all removed from " + DEVICES_FILE);
+                return false;
+            }
+        };
+
+        private final int maxEntries;
+        private final LinkedHashMap<String, DeviceWorkspace> cache;
+
+        public WorkspaceCache(int maxEntries) {
+            this.maxEntries = maxEntries;
+            // Access order makes iteration run from least to most recently used.
+            this.cache = new LinkedHashMap<String, DeviceWorkspace>(16, 0.75f, true) {
+                protected boolean removeEldestEntry(Map.Entry<String, DeviceWorkspace> eldest) {
+                    if (size() <= WorkspaceCache.this.maxEntries) {
+                        return false;
+                    }
+                    return flush(eldest.getValue());
+                }
+            };
+        }
+
+        // Returns the workspace for username, loading it from disk on first use.
+        public synchronized DeviceWorkspace get(String username) throws IOException {
+            DeviceWorkspace workspace = cache.get(username);
+            if (workspace == null) {
+                workspace = DeviceWorkspace.load(username);
+                cache.put(username, workspace);
+            }
+            return workspace;
+        }
+
+        // Flushes every dirty cached workspace that no frame has open.
+        // Open workspaces belong to the EDT and are flushed by their frame.
+        public synchronized void flushClosed() {
+            for (DeviceWorkspace workspace : cache.values()) {
+                if (!workspace.isOpen()) {
+                    flush(workspace);
+                }
+            }
+        }
+
+        // Saves a dirty workspace; returns false if it is still dirty afterwards.
+        private static boolean flush(DeviceWorkspace workspace) {
+            if (!workspace.isDirty()) {
+                return true;
+            }
+            try {
+                workspace.save(KEEP_LOCAL);
+                return true;
+            } catch (IOException ex) {
+                ex.printStackTrace();
+                return false;
             }
         }
     }
@@ -709,6 +1785,9 @@ public class ARemiPro {
         public String getStatus() {
             return status;
         }
+        public void setId(int id) {
+            this.id = id;
+        }
         public void setName(String name) {
             this.name = name;
         }
@@ -718,5 +1797,31 @@ public class ARemiPro {
         public void setStatus(String status) {
             this.status = status;
         }
+
+        // Copies every field except the ID from other.
+        public void assign(Device other) {
+            this.name = other.name;
+            this.appId = other.appId;
+            this.savedCPN = other.savedCPN;
+            this.securityKey = other.securityKey;
+            this.status = other.status;
+        }
+
+        public Device copy() {
+            return new Device(id, name, appId, savedCPN, securityKey, status);
+        }
+
+        // Returns true if both devices are null or all of their fields are equal.
+        public static boolean sameFields(Device a, Device b) {
+            if (a == null || b == null) {
+                return a == b;
+            }
+            return a.id == b.id
+                    && Objects.equals(a.name, b.name)
+                    && Objects.equals(a.appId, b.appId)
+                    && Objects.equals(a.savedCPN, b.savedCPN)
+                    && Objects.equals(a.securityKey, b.securityKey)
+                    && Objects.equals(a.status, b.status);
+        }
     }
 }